@@ -18,7 +18,7 @@ public class Background {
 	/**
 	 * The node that contains all the background image instances.
 	 */
-	private final Node node = new Node("background");
+	final Node node = new Node("background");
 	
 	/**
 	 * Creates the background.
@@ -13,7 +13,7 @@ public class Base {
 	/**
 	 * The node that contains all the background image instances.
 	 */
-	private final Node node;
+	final Node node;
 	
 	/**
 	 * Creates the background.
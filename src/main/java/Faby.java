@@ -120,6 +120,16 @@ public class Faby {
 		velocity = 5;
 	}
 	
+	/**
+	 * This method determines if Faby is lying on the base and not moving. This happens after Faby dies and falls all
+	 * the way down.
+	 *
+	 * @return true if Faby is resting on the base, false otherwise
+	 */
+	public boolean isResting() {
+		return position == 62 && velocity == 0; // 62 = 112 - 50, the top of the base
+	}
+	
 	/**
 	 * This method determines if Faby is touching one of the pipes in a given barrier. If it is, we return true. If it
 	 * is not touching a pipe, we return false.
@@ -73,6 +73,16 @@ public class FlappyBird extends SimpleApplication implements ActionListener {
 	 */
 	Spatial gameOverScreen;
 	
+	/**
+	 * Lowers the frame rate while nothing on the screen is moving, to save power.
+	 */
+	FramePacer framePacer;
+	
+	/**
+	 * Remembers the last few seconds of the game so that we can rewind it.
+	 */
+	StateHistory history;
+	
 	/**
 	 * Maps a name of a sound to the sound itself. This is used to play sounds.
 	 */
@@ -83,12 +93,24 @@ public class FlappyBird extends SimpleApplication implements ActionListener {
 	 */
 	String state = "ready";
 	
+	/**
+	 * The score of the game, worked out once per tick. Counting the score means looking at every barrier, so instead of
+	 * counting it again every time we need it, we count it once and write it down here.
+	 */
+	int currentScore = 0;
+	
 	/**
 	 * On every frame of the game, we check to see if the score has changed. To have something to compare it to, we
 	 * write down the score to this variable, then compare it to the current score.
 	 */
 	private int lastScore = 0;
 	
+	/**
+	 * How many ticks we go back when the player rewinds. The game ticks about 60 times per second, so this is about 2
+	 * seconds.
+	 */
+	static final int REWIND_TICKS = 120;
+	
 	/**
 	 * This is the main method. It is the entry point for the program.
 	 */
@@ -116,6 +138,10 @@ public class FlappyBird extends SimpleApplication implements ActionListener {
 		inputManager.addMapping("Jump", new KeyTrigger(KeyInput.KEY_SPACE)); // Space bar -> "Jump"
 		inputManager.addListener(this, "Jump"); // This class will handle the "Jump" action
 		
+		/* We also have a second action: the R key. It rewinds the game by a couple of seconds. */
+		inputManager.addMapping("Rewind", new KeyTrigger(KeyInput.KEY_R)); // R -> "Rewind"
+		inputManager.addListener(this, "Rewind"); // This class will handle the "Rewind" action too
+		
 		/* Here, we create the game's player. Its name is Faby. Because we will need to reference Faby later on, we must
 		 * store Faby in a class variable. This means that any method in this class can reference it. All the class
 		 * variables in the program have been declared just below the class declaration. */
@@ -154,6 +180,12 @@ public class FlappyBird extends SimpleApplication implements ActionListener {
 		sounds.put("hit", getSoundEffect("hit.wav"));
 		sounds.put("score", getSoundEffect("score.wav"));
 		sounds.put("die", getSoundEffect("die.wav"));
+		
+		/* Here, we set up the frame pacer. */
+		framePacer = new FramePacer(this);
+		
+		/* Here, we set up the state history. This has to come last, since it needs all the game objects. */
+		history = new StateHistory(this);
 	}
 	
 	/**
@@ -165,6 +197,35 @@ public class FlappyBird extends SimpleApplication implements ActionListener {
 	public void simpleUpdate(float tpf) {
 		super.simpleUpdate(tpf); // Call the superclass' update method to ensure that jME's code runs too
 		
+		/* If nothing on the screen is going to move, we don't need to tick anything or check for collisions. */
+		boolean idle = framePacer.isSceneStatic();
+		if (!idle) {
+			tickGame();
+		}
+		
+		/* We hide/show screens based on the game's state. */
+		if (state.equals("dead")) {
+			gameOverScreen.setCullHint(Dynamic);
+		} else {
+			gameOverScreen.setCullHint(Always);
+		}
+		
+		/* We should only show the start screen if the game is not running (the ready state). */
+		if (state.equals("ready")) {
+			startScreen.setCullHint(Dynamic);
+		} else {
+			startScreen.setCullHint(Always);
+		}
+		
+		/* Let the frame pacer measure this frame, and slow us down if the scene is static. */
+		framePacer.endFrame(idle);
+	}
+	
+	/**
+	 * This method ticks all the game objects, checks for collisions, and plays the score sound. It is called on every
+	 * frame, unless nothing on the screen is moving.
+	 */
+	private void tickGame() {
 		/* Here, we tick all the game objects. */
 		
 		faby.tick(); // Tick Faby
@@ -173,6 +234,9 @@ public class FlappyBird extends SimpleApplication implements ActionListener {
 			barrier.tick();
 		}
 		
+		/* The barriers have moved, so we count the score again. The score object and the sound effect both use this. */
+		currentScore = score();
+		
 		background.tick(); // Tick the background
 		base.tick(); // Tick the base
 		score.tick(); // Tick the score
@@ -187,24 +251,13 @@ public class FlappyBird extends SimpleApplication implements ActionListener {
 		}
 		
 		/* Check to see if we should play a sound. */
-		if (score() > lastScore) {
+		if (currentScore > lastScore) {
 			sounds.get("score").playInstance();
 		}
-		lastScore = score(); // Always update the last score, regardless
+		lastScore = currentScore; // Always update the last score, regardless
 		
-		/* We hide/show screens based on the game's state. */
-		if (state.equals("dead")) {
-			gameOverScreen.setCullHint(Dynamic);
-		} else {
-			gameOverScreen.setCullHint(Always);
-		}
-		
-		/* We should only show the start screen if the game is not running (the ready state). */
-		if (state.equals("ready")) {
-			startScreen.setCullHint(Dynamic);
-		} else {
-			startScreen.setCullHint(Always);
-		}
+		/* Write down the state of the game so that we can rewind to it later. */
+		history.capture();
 	}
 	
 	/**
@@ -262,6 +315,12 @@ public class FlappyBird extends SimpleApplication implements ActionListener {
 				faby.jump();
 			}
 		}
+		if (name.equals("Rewind") && isPressed && !state.equals("ready")) {
+			if (history.restore(REWIND_TICKS)) {
+				lastScore = score(); // So that going back doesn't play the score sound
+				framePacer.wake(); // The game objects need to tick to show where they are now
+			}
+		}
 	}
 	
 	/**
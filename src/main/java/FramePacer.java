@@ -0,0 +1,186 @@
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+/**
+ * The frame pacer saves power while nothing on the screen is moving. In the "ready" state, and in the "dead" state once
+ * Faby has landed on the base, every game object skips its update, so drawing the same picture over and over at full
+ * speed just wastes CPU time.
+ * <p>
+ * When the scene is static, the pacer tells the main class to skip the ticks and collision checks, and it puts the game
+ * to sleep for the rest of the frame so that we only draw a few frames per second. As soon as the state changes (like
+ * when the player presses the space bar), the scene is no longer static, and we go back to full speed on the very next
+ * frame.
+ * <p>
+ * The pacer also measures how much CPU time the game uses per second in each state, and writes it to the log every so
+ * often. This lets us check how much we save when the game sits idle for a long time.
+ */
+public class FramePacer {
+
+	/**
+	 * The number of frames per second we draw while the scene is static. Input is only read once per frame, so this
+	 * should not be too low, or the first jump will feel slow. 10 frames per second means we wait at most 100 ms.
+	 */
+	static final int IDLE_FRAME_RATE = 10;
+
+	/**
+	 * How often (in seconds) we write the CPU measurements to the log.
+	 */
+	static final int REPORT_INTERVAL = 10;
+
+	/**
+	 * We write the CPU measurements to this logger.
+	 */
+	private static final Logger LOGGER = Logger.getLogger(FramePacer.class.getName());
+
+	/**
+	 * Context to the main class.
+	 */
+	private final FlappyBird context;
+
+	/**
+	 * Lets us ask the JVM how much CPU time the game's thread has used so far.
+	 */
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+	/**
+	 * Maps a game state to the CPU time (in nanoseconds) spent in that state since the last report.
+	 */
+	private final Map<String, Long> cpuTime = new HashMap<>();
+
+	/**
+	 * Maps a game state to the wall-clock time (in nanoseconds) spent in that state since the last report.
+	 */
+	private final Map<String, Long> wallTime = new HashMap<>();
+
+	/**
+	 * The game state at the end of the last frame. We use this to know if the state has just changed. It starts as null
+	 * so that the very first frame always runs, which puts every sprite in its starting place.
+	 */
+	private String lastState = null;
+
+	/**
+	 * The CPU time of the game's thread at the end of the last frame, in nanoseconds.
+	 */
+	private long lastCpuTime;
+
+	/**
+	 * The wall-clock time at the end of the last frame, in nanoseconds.
+	 */
+	private long lastWallTime;
+
+	/**
+	 * The wall-clock time of the last report, in nanoseconds.
+	 */
+	private long lastReport;
+
+	/**
+	 * Creates the frame pacer.
+	 *
+	 * @param context: context to the main class
+	 */
+	public FramePacer(FlappyBird context) {
+		/* Write down context to the main class. */
+		this.context = context;
+
+		/* Not every JVM can measure CPU time per thread, so we check first. */
+		if (threads.isCurrentThreadCpuTimeSupported() && !threads.isThreadCpuTimeEnabled()) {
+			threads.setThreadCpuTimeEnabled(true);
+		}
+
+		lastCpuTime = cpuTime();
+		lastWallTime = System.nanoTime();
+		lastReport = lastWallTime;
+	}
+
+	/**
+	 * This method determines if nothing on the screen is going to move this frame. The scene is static if the state has
+	 * not changed since the last frame, and we are either ready to play or dead with Faby lying on the base.
+	 *
+	 * @return true if we can skip the game's ticks this frame, false otherwise
+	 */
+	public boolean isSceneStatic() {
+		if (!context.state.equals(lastState)) {
+			return false; // The state just changed, so we need to update everything
+		}
+		if (context.state.equals("ready")) {
+			return true; // Nothing moves before the game starts
+		}
+		/* When Faby dies, it keeps falling until it hits the base, so we have to wait for it to land. */
+		return context.state.equals("dead") && context.faby.isResting();
+	}
+
+	/**
+	 * This method makes sure the next frame runs at full speed and ticks everything, even if the state has not
+	 * changed. We need this when the game objects are moved from outside their ticks, like when we rewind.
+	 */
+	public void wake() {
+		lastState = null;
+	}
+
+	/**
+	 * This method is called at the end of every frame. It writes down how much CPU time the frame used, and if the
+	 * scene was static, it sleeps for the rest of the frame so that we draw at a lower frame rate.
+	 *
+	 * @param idle: true if the scene was static this frame
+	 */
+	public void endFrame(boolean idle) {
+		/* If the scene is static, we sleep until it's time for the next frame. We measure from the end of the last
+		 * frame, so the time we spent drawing counts too. */
+		if (idle) {
+			long frameTime = 1_000_000_000L / IDLE_FRAME_RATE;
+			long remaining = frameTime - (System.nanoTime() - lastWallTime);
+			if (remaining > 0) {
+				try {
+					Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt(); // Someone wants us to stop, so we remember that and move on
+				}
+			}
+		}
+
+		/* Add the time this frame took to the current state's total. */
+		long now = System.nanoTime();
+		long cpu = cpuTime();
+		cpuTime.merge(context.state, cpu - lastCpuTime, Long::sum);
+		wallTime.merge(context.state, now - lastWallTime, Long::sum);
+		lastCpuTime = cpu;
+		lastWallTime = now;
+		lastState = context.state;
+
+		/* Every so often, we write down the measurements. */
+		if (now - lastReport >= REPORT_INTERVAL * 1_000_000_000L) {
+			report();
+			lastReport = now;
+		}
+	}
+
+	/**
+	 * This method writes the CPU time per second of each state to the log, then starts counting again.
+	 */
+	private void report() {
+		for (String state : wallTime.keySet()) {
+			long wall = wallTime.get(state);
+			if (wall > 0) {
+				/* CPU time per second is the CPU time divided by the wall-clock time. We show it in milliseconds. */
+				double millisPerSecond = cpuTime.get(state) / 1_000_000.0 / (wall / 1_000_000_000.0);
+				LOGGER.info(String.format("State \"%s\": %.1f ms of CPU time per second (over %.1f s)",
+						state, millisPerSecond, wall / 1_000_000_000.0));
+			}
+		}
+		cpuTime.clear();
+		wallTime.clear();
+	}
+
+	/**
+	 * Returns the CPU time the game's thread has used so far, in nanoseconds, or 0 if we can't measure it.
+	 */
+	private long cpuTime() {
+		if (threads.isCurrentThreadCpuTimeSupported()) {
+			return threads.getCurrentThreadCpuTime();
+		}
+		return 0;
+	}
+}
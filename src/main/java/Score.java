@@ -62,15 +62,16 @@ public class Score {
 	}
 	
 	public void tick() {
-		/* Update the visibility of each number in both the ones and tens nodes. */
+		/* Update the visibility of each number in both the ones and tens nodes. The main class has already counted the
+		 * score for this tick, so we use that instead of counting it again for every digit. */
 		for (int i = 0; i <= 9; i++) {
-			if (context.score() / 10 == i) { // To get the tens-place, we use integer division
+			if (context.currentScore / 10 == i) { // To get the tens-place, we use integer division
 				tensNode.getChild(i).setCullHint(Dynamic);
 			} else {
 				tensNode.getChild(i).setCullHint(Always);
 			}
 			
-			if (context.score() % 10 == i) { // To get the tens-place, we use modulus (remainder)
+			if (context.currentScore % 10 == i) { // To get the tens-place, we use modulus (remainder)
 				onesNode.getChild(i).setCullHint(Dynamic);
 			} else {
 				onesNode.getChild(i).setCullHint(Always);
@@ -0,0 +1,173 @@
+import com.jme3.math.Vector3f;
+import com.jme3.scene.Node;
+import com.jme3.scene.Spatial;
+
+/**
+ * The state history remembers the last few seconds of the game so that we can rewind it. On every tick, we write down
+ * everything that moves: Faby's position and velocity, the x-position of each barrier, the x-position of each
+ * background and base image, and the game's state.
+ * <p>
+ * Since this happens on every frame, it needs to be fast. Instead of making new objects for each snapshot, we make one
+ * big array of numbers when the game starts and reuse it forever. This is called a "ring buffer": when we reach the end
+ * of the array, we go back to the beginning and write over the oldest snapshots.
+ * <p>
+ * The y-position of each barrier is picked when the barrier is created and never changes, so we don't need to write it
+ * down.
+ */
+public class StateHistory {
+
+	/**
+	 * The number of ticks we remember. The game ticks about 60 times per second, so this is about 10 seconds.
+	 */
+	static final int CAPACITY = 600;
+
+	/**
+	 * The game states, in the order we number them. We store the number of the state instead of the string itself.
+	 */
+	private static final String[] STATES = {"ready", "playing", "dead"};
+
+	/**
+	 * Context to the main class.
+	 */
+	private final FlappyBird context;
+
+	/**
+	 * How many numbers one snapshot takes up in the {@link #values} array.
+	 */
+	private final int stride;
+
+	/**
+	 * Holds every snapshot, one after another. Snapshot number i starts at index i * stride.
+	 */
+	private final float[] values;
+
+	/**
+	 * Holds the number of the game state of each snapshot.
+	 */
+	private final byte[] states = new byte[CAPACITY];
+
+	/**
+	 * The snapshot number we will write to next.
+	 */
+	private int head = 0;
+
+	/**
+	 * How many snapshots we have written down (up to {@link #CAPACITY}).
+	 */
+	private int count = 0;
+
+	/**
+	 * Creates the state history. This must be done after all the game objects have been created, because we count how
+	 * many numbers we need to store for them.
+	 *
+	 * @param context: context to the main class
+	 */
+	public StateHistory(FlappyBird context) {
+		/* Write down context to the main class. */
+		this.context = context;
+
+		/* Two numbers for Faby (position and velocity), then one for each barrier, background image and base image. */
+		stride = 2 + context.barriers.length + context.background.node.getQuantity() + context.base.node.getQuantity();
+		values = new float[CAPACITY * stride];
+	}
+
+	/**
+	 * This method writes down the current state of the game. If the history is full, it writes over the oldest
+	 * snapshot.
+	 */
+	public void capture() {
+		int i = head * stride;
+
+		values[i++] = context.faby.position;
+		values[i++] = context.faby.velocity;
+		for (Barrier barrier : context.barriers) {
+			values[i++] = barrier.xPosition;
+		}
+		i = captureChildren(context.background.node, i);
+		captureChildren(context.base.node, i);
+
+		states[head] = stateNumber(context.state);
+
+		/* Move on to the next snapshot, going back to the start if we reach the end. */
+		head = (head + 1) % CAPACITY;
+		if (count < CAPACITY) {
+			count++;
+		}
+	}
+
+	/**
+	 * This method puts the game back the way it was a number of ticks ago. If we don't remember that far back, we go
+	 * back as far as we can. Every snapshot after the one we go back to is forgotten, so the game continues from there.
+	 *
+	 * @param ticksAgo: how many ticks to go back, where 0 is the last snapshot
+	 * @return true if we went back, false if there was nothing to go back to
+	 */
+	public boolean restore(int ticksAgo) {
+		if (count == 0) {
+			return false; // We haven't written anything down yet
+		}
+		ticksAgo = Math.min(ticksAgo, count - 1);
+
+		/* Find the snapshot, going back to the end of the array if we go past the start. */
+		int snapshot = (head - 1 - ticksAgo + CAPACITY) % CAPACITY;
+		int i = snapshot * stride;
+
+		context.faby.position = values[i++];
+		context.faby.velocity = values[i++];
+		for (Barrier barrier : context.barriers) {
+			barrier.xPosition = values[i++];
+		}
+		i = restoreChildren(context.background.node, i);
+		restoreChildren(context.base.node, i);
+
+		context.state = STATES[states[snapshot]];
+
+		/* Forget everything newer than this snapshot. */
+		head = (snapshot + 1) % CAPACITY;
+		count -= ticksAgo;
+		return true;
+	}
+
+	/**
+	 * Writes down the x-position of each child of a node.
+	 *
+	 * @param node: the node whose children we write down
+	 * @param i:    the index in {@link #values} to start writing at
+	 * @return the index just after the last one we wrote
+	 */
+	private int captureChildren(Node node, int i) {
+		/* We count through the children by number, since looping over the list would make a new iterator. */
+		for (int c = 0; c < node.getQuantity(); c++) {
+			values[i++] = node.getChild(c).getLocalTranslation().x;
+		}
+		return i;
+	}
+
+	/**
+	 * Moves each child of a node back to the x-position we wrote down.
+	 *
+	 * @param node: the node whose children we move
+	 * @param i:    the index in {@link #values} to start reading at
+	 * @return the index just after the last one we read
+	 */
+	private int restoreChildren(Node node, int i) {
+		for (int c = 0; c < node.getQuantity(); c++) {
+			Spatial child = node.getChild(c);
+			Vector3f translation = child.getLocalTranslation();
+			child.setLocalTranslation(values[i++], translation.y, translation.z);
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the number of a game state, from its position in {@link #STATES}.
+	 */
+	private static byte stateNumber(String state) {
+		for (byte i = 0; i < STATES.length; i++) {
+			if (STATES[i].equals(state)) {
+				return i;
+			}
+		}
+		return 0; // We don't know this state, so we treat it like "ready"
+	}
+}